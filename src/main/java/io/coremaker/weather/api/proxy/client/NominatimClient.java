@@ -7,7 +7,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
-@FeignClient(name = "nominatim", url = "${nominatim.api.url}")
+@FeignClient(name = "nominatim")
 public interface NominatimClient {
 
     @GetMapping("/search")
@@ -5,7 +5,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "openmeteo", url = "${open.meteo.api.url}")
+@FeignClient(name = "openmeteo")
 public interface OpenMeteoClient {
 
     @GetMapping("/forecast")
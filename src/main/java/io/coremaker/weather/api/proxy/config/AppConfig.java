@@ -6,6 +6,7 @@ import io.coremaker.weather.api.proxy.model.WeatherResponse;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.time.Duration;
@@ -13,6 +14,7 @@ import java.time.Duration;
 @Configuration
 @EnableScheduling
 @EnableFeignClients(basePackages = "io.coremaker.weather.api.proxy.client")
+@ImportRuntimeHints(WeatherApiRuntimeHints.class)
 public class AppConfig {
     @Bean
     public Cache<String, WeatherResponse> weatherCache() {
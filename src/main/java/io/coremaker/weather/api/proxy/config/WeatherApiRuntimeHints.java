@@ -0,0 +1,33 @@
+package io.coremaker.weather.api.proxy.config;
+
+import io.coremaker.weather.api.proxy.client.NominatimClient;
+import io.coremaker.weather.api.proxy.client.OpenMeteoClient;
+import io.coremaker.weather.api.proxy.exception.ErrorResponse;
+import io.coremaker.weather.api.proxy.model.NominatimResponse;
+import io.coremaker.weather.api.proxy.model.OpenMeteoResponse;
+import io.coremaker.weather.api.proxy.model.WeatherResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Runtime hints for the AOT-processed (fast-startup) build: Jackson binds the upstream
+ * and response models reflectively, and Feign backs each client interface with a JDK proxy.
+ */
+public class WeatherApiRuntimeHints implements RuntimeHintsRegistrar {
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                NominatimResponse.class,
+                OpenMeteoResponse.class,
+                OpenMeteoResponse.CurrentWeather.class,
+                WeatherResponse.class,
+                ErrorResponse.class);
+
+        hints.proxies()
+                .registerJdkProxy(NominatimClient.class)
+                .registerJdkProxy(OpenMeteoClient.class);
+    }
+}
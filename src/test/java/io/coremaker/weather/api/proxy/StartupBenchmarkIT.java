@@ -0,0 +1,153 @@
+package io.coremaker.weather.api.proxy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures time from JVM launch to the first successful /weather response, for the plain
+ * jar and for the AOT + AppCDS build, with both upstream APIs stubbed on localhost.
+ * Run with {@code mvn -Pfast-startup verify}; set {@code startup.benchmark.max-millis}
+ * to fail the build when the fast-startup time regresses past a threshold.
+ */
+public class StartupBenchmarkIT {
+
+    private static final String NOMINATIM_BODY = "[{\"lat\":\"51.5074456\",\"lon\":\"-0.1277653\",\"name\":\"London\"}]";
+    private static final String OPEN_METEO_BODY =
+            "{\"current_weather\":{\"temperature\":16.5,\"windspeed\":14.2,\"winddirection\":124}}";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private static HttpServer upstreamStub;
+    private static String upstreamUrl;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @BeforeAll
+    static void startUpstreamStub() throws IOException {
+        upstreamStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstreamStub.createContext("/search", exchange -> respond(exchange, NOMINATIM_BODY));
+        upstreamStub.createContext("/v1/forecast", exchange -> respond(exchange, OPEN_METEO_BODY));
+        upstreamStub.start();
+        upstreamUrl = "http://localhost:" + upstreamStub.getAddress().getPort();
+    }
+
+    @AfterAll
+    static void stopUpstreamStub() {
+        if (upstreamStub != null) {
+            upstreamStub.stop(0);
+        }
+    }
+
+    @Test
+    public void testTimeToFirstWeatherResponse() throws Exception {
+        var baselineJar = System.getProperty("startup.benchmark.baseline-jar");
+        var fastStartupJar = System.getProperty("startup.benchmark.fast-startup-jar");
+        var archive = System.getProperty("startup.benchmark.archive");
+        assumeTrue(baselineJar != null && fastStartupJar != null && archive != null,
+                "Startup benchmark only runs in the fast-startup profile");
+        assertTrue(Files.exists(Path.of(archive)), "CDS archive was not created: " + archive);
+
+        var runs = Integer.getInteger("startup.benchmark.runs", 3);
+        var baselineMillis = Long.MAX_VALUE;
+        var fastStartupMillis = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            baselineMillis = Math.min(baselineMillis, measureStartup("baseline", List.of("-jar", baselineJar)));
+            fastStartupMillis = Math.min(fastStartupMillis, measureStartup("fast-startup", List.of(
+                    "-XX:SharedArchiveFile=" + archive,
+                    "-Xshare:auto",
+                    "-Dspring.aot.enabled=true",
+                    "-jar", fastStartupJar)));
+        }
+
+        System.out.println("Time to first successful /weather (best of " + runs + "): baseline "
+                + baselineMillis + " ms, fast-startup " + fastStartupMillis + " ms");
+
+        var maxMillis = Long.getLong("startup.benchmark.max-millis");
+        if (maxMillis != null) {
+            assertTrue(fastStartupMillis <= maxMillis,
+                    "Fast-startup time " + fastStartupMillis + " ms exceeded " + maxMillis + " ms");
+        }
+    }
+
+    private long measureStartup(final String mode, final List<String> jvmArgs) throws Exception {
+        var port = findFreePort();
+        var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("--server.port=" + port);
+        command.add("--nominatim.api.url=" + upstreamUrl);
+        command.add("--open.meteo.api.url=" + upstreamUrl + "/v1");
+
+        var log = Path.of("target", "startup-benchmark-" + mode + ".log");
+        var startTime = System.nanoTime();
+        var process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            var deadline = startTime + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                assertTrue(process.isAlive(), mode + " process exited early, see " + log);
+                if (isWeatherAvailable(port)) {
+                    return Duration.ofNanos(System.nanoTime() - startTime).toMillis();
+                }
+                Thread.sleep(10);
+            }
+            return fail(mode + " did not serve /weather within " + STARTUP_TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private boolean isWeatherAvailable(final int port) throws IOException, InterruptedException {
+        // Fresh user id per attempt so polling never trips the rate limiter
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/weather?city=London"))
+                .header("USER_ID", UUID.randomUUID().toString())
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 && response.body().contains("London");
+        } catch (ConnectException e) {
+            return false;
+        }
+    }
+
+    private static void respond(final HttpExchange exchange, final String body) throws IOException {
+        var bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (var responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    private static int findFreePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
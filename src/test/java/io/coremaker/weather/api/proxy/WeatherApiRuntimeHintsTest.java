@@ -0,0 +1,26 @@
+package io.coremaker.weather.api.proxy;
+
+import io.coremaker.weather.api.proxy.client.NominatimClient;
+import io.coremaker.weather.api.proxy.client.OpenMeteoClient;
+import io.coremaker.weather.api.proxy.config.WeatherApiRuntimeHints;
+import io.coremaker.weather.api.proxy.model.OpenMeteoResponse;
+import io.coremaker.weather.api.proxy.model.WeatherResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WeatherApiRuntimeHintsTest {
+
+    @Test
+    public void testModelAndClientHintsRegistered() {
+        var hints = new RuntimeHints();
+        new WeatherApiRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OpenMeteoResponse.CurrentWeather.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(WeatherResponse.class, "getWindSpeed").test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(NominatimClient.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(OpenMeteoClient.class).test(hints));
+    }
+}